@@ -1,5 +1,6 @@
 package com.example.enterprise.application.module.submodule.component.service.implementation;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -11,12 +12,14 @@ import java.util.stream.Collectors;
  * A complex service implementation to demonstrate node text length issues in Chartographer
  */
 public class ComplexServiceImplementation<T extends Comparable<T>, R extends AutoCloseable> {
-    private final InnerProcessor<String, Integer> defaultProcessor = new InnerProcessor<>();
+    private static final int MAX_KEY_LENGTH = 5;
+
+    private final GroupKeyCodec keyCodec = new GroupKeyCodec();
 
     public void processAndTransform(List<T> data) {
         validateInput(data);
         List<String> stringData = convertToString(data);
-        Map<String, List<Integer>> result = processStringData(stringData);
+        LongKeyGroups<Integer> result = processStringData(stringData);
         handleResult(result);
     }
 
@@ -57,20 +60,21 @@ public class ComplexServiceImplementation<T extends Comparable<T>, R extends Aut
             .collect(Collectors.toList());
     }
 
+    // Group keys are lowercased per char in GroupKeyCodec, independent of locale; values see the raw length.
     private String convertElement(T element) {
-        return element.toString().toLowerCase();
+        return element.toString();
     }
 
-    private Map<String, List<Integer>> processStringData(List<String> stringData) {
-        return defaultProcessor.processData(
-            stringData,
-            this::generateKey,
-            this::calculateValue
-        );
+    private LongKeyGroups<Integer> processStringData(List<String> stringData) {
+        LongKeyGroups<Integer> groups = new LongKeyGroups<>();
+        for (String input : stringData) {
+            groups.add(generateKey(input), calculateValue(input));
+        }
+        return groups;
     }
 
-    private String generateKey(String input) {
-        return input.substring(0, Math.min(input.length(), 5));
+    private long generateKey(String input) {
+        return keyCodec.encode(input, Math.min(input.length(), MAX_KEY_LENGTH));
     }
 
     private Integer calculateValue(String input) {
@@ -84,7 +88,7 @@ public class ComplexServiceImplementation<T extends Comparable<T>, R extends Aut
         return input.length() + recursiveCalculation(input.substring(1), depth + 1);
     }
 
-    private void handleResult(Map<String, List<Integer>> result) {
+    private void handleResult(LongKeyGroups<Integer> result) {
         if (!result.isEmpty()) {
             processResults(result);
         } else {
@@ -92,14 +96,14 @@ public class ComplexServiceImplementation<T extends Comparable<T>, R extends Aut
         }
     }
 
-    private void processResults(Map<String, List<Integer>> result) {
+    private void processResults(LongKeyGroups<Integer> result) {
         result.forEach(this::processResultEntry);
     }
 
-    private void processResultEntry(String key, List<Integer> values) {
+    private void processResultEntry(long key, List<Integer> values) {
         if (!values.isEmpty()) {
             int sum = calculateSum(values);
-            logResult(key, sum);
+            logResult(keyCodec.decode(key), sum);
         }
     }
 
@@ -125,6 +129,222 @@ public class ComplexServiceImplementation<T extends Comparable<T>, R extends Aut
         }
     }
 
+    /**
+     * Encodes short, lowercased group keys as longs so grouping never has to allocate a key string.
+     * Keys whose lowercased characters are all Latin-1 are packed into the value itself (8 bits per
+     * character, length in bits 40-42); anything else is interned and given a negative dictionary id.
+     * Dictionary lookups probe the lowercased characters in place, so only the first occurrence of
+     * a key allocates. The dictionary is never evicted: it holds one entry per distinct non-Latin-1
+     * key of at most {@link #MAX_KEY_LENGTH} characters seen over the codec's lifetime.
+     */
+    private static final class GroupKeyCodec {
+        private static final int LENGTH_SHIFT = 40;
+        private static final int MAX_PACKED_CHAR = 0xFF;
+        private static final long CHAR_MASK = 0xFFL;
+        private static final int INITIAL_DICTIONARY_CAPACITY = 16;
+
+        private final List<String> keys = new ArrayList<>();
+        private volatile InternedKey[] dictionary = new InternedKey[INITIAL_DICTIONARY_CAPACITY];
+
+        long encode(String input, int length) {
+            long packed = (long) length << LENGTH_SHIFT;
+            for (int i = 0; i < length; i++) {
+                char c = Character.toLowerCase(input.charAt(i));
+                if (c > MAX_PACKED_CHAR) {
+                    return intern(input, length);
+                }
+                packed |= (long) c << (i * 8);
+            }
+            return packed;
+        }
+
+        String decode(long key) {
+            if (key < 0) {
+                synchronized (keys) {
+                    return keys.get((int) (-key - 1));
+                }
+            }
+            int length = (int) (key >>> LENGTH_SHIFT);
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = (char) ((key >>> (i * 8)) & CHAR_MASK);
+            }
+            return new String(chars);
+        }
+
+        private long intern(String input, int length) {
+            int hash = lowerCaseHash(input, length);
+            InternedKey found = find(dictionary, hash, input, length);
+            if (found != null) {
+                return found.id;
+            }
+            synchronized (keys) {
+                InternedKey[] table = dictionary;
+                found = find(table, hash, input, length);
+                if (found != null) {
+                    return found.id;
+                }
+                String key = lowerCasePrefix(input, length);
+                keys.add(key);
+                InternedKey added = new InternedKey(key, hash, -keys.size());
+                if (keys.size() * 2 > table.length) {
+                    table = new InternedKey[table.length * 2];
+                    for (InternedKey existing : dictionary) {
+                        if (existing != null) {
+                            insert(table, existing);
+                        }
+                    }
+                }
+                insert(table, added);
+                dictionary = table;
+                return added.id;
+            }
+        }
+
+        private static InternedKey find(InternedKey[] table, int hash, String input, int length) {
+            int mask = table.length - 1;
+            for (int slot = spread(hash) & mask; table[slot] != null; slot = (slot + 1) & mask) {
+                InternedKey candidate = table[slot];
+                if (candidate.hash == hash && candidate.matches(input, length)) {
+                    return candidate;
+                }
+            }
+            return null;
+        }
+
+        private static void insert(InternedKey[] table, InternedKey key) {
+            int mask = table.length - 1;
+            int slot = spread(key.hash) & mask;
+            while (table[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            table[slot] = key;
+        }
+
+        private static int spread(int hash) {
+            return hash ^ (hash >>> 16);
+        }
+
+        private static int lowerCaseHash(String input, int length) {
+            int hash = 0;
+            for (int i = 0; i < length; i++) {
+                hash = 31 * hash + Character.toLowerCase(input.charAt(i));
+            }
+            return hash;
+        }
+
+        private static String lowerCasePrefix(String input, int length) {
+            char[] chars = new char[length];
+            for (int i = 0; i < length; i++) {
+                chars[i] = Character.toLowerCase(input.charAt(i));
+            }
+            return new String(chars);
+        }
+
+        private static final class InternedKey {
+            private final String key;
+            private final int hash;
+            private final long id;
+
+            InternedKey(String key, int hash, long id) {
+                this.key = key;
+                this.hash = hash;
+                this.id = id;
+            }
+
+            boolean matches(String input, int length) {
+                if (key.length() != length) {
+                    return false;
+                }
+                for (int i = 0; i < length; i++) {
+                    if (key.charAt(i) != Character.toLowerCase(input.charAt(i))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+        }
+    }
+
+    private interface LongKeyedConsumer<V> {
+        void accept(long key, V value);
+    }
+
+    /**
+     * Groups values under primitive long keys using an open-addressing table, so encoded
+     * group keys are never boxed.
+     */
+    private static final class LongKeyGroups<V> {
+        private static final int INITIAL_CAPACITY = 16;
+
+        private long[] keys;
+        private boolean[] used;
+        private List<V>[] values;
+        private int size;
+
+        LongKeyGroups() {
+            allocate(INITIAL_CAPACITY);
+        }
+
+        void add(long key, V value) {
+            int slot = slotOf(key);
+            if (!used[slot]) {
+                if ((size + 1) * 2 > keys.length) {
+                    rehash();
+                    slot = slotOf(key);
+                }
+                used[slot] = true;
+                keys[slot] = key;
+                values[slot] = new ArrayList<>();
+                size++;
+            }
+            values[slot].add(value);
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void forEach(LongKeyedConsumer<List<V>> consumer) {
+            for (int i = 0; i < keys.length; i++) {
+                if (used[i]) {
+                    consumer.accept(keys[i], values[i]);
+                }
+            }
+        }
+
+        private int slotOf(long key) {
+            int mask = keys.length - 1;
+            int slot = (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+            while (used[slot] && keys[slot] != key) {
+                slot = (slot + 1) & mask;
+            }
+            return slot;
+        }
+
+        @SuppressWarnings("unchecked")
+        private void allocate(int capacity) {
+            keys = new long[capacity];
+            used = new boolean[capacity];
+            values = (List<V>[]) new List<?>[capacity];
+        }
+
+        private void rehash() {
+            long[] oldKeys = keys;
+            boolean[] oldUsed = used;
+            List<V>[] oldValues = values;
+            allocate(oldKeys.length * 2);
+            for (int i = 0; i < oldKeys.length; i++) {
+                if (oldUsed[i]) {
+                    int slot = slotOf(oldKeys[i]);
+                    used[slot] = true;
+                    keys[slot] = oldKeys[i];
+                    values[slot] = oldValues[i];
+                }
+            }
+        }
+    }
+
     public <X extends Number & Comparable<X>, Y extends Comparable<Y>> CompletableFuture<Map<X, List<Y>>>
             processComplexDataStructure(
                 List<T> inputData,